@@ -0,0 +1,36 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+
+/**
+ * Beans for the fast-start profile, which turns on spring.main.lazy-initialization.
+ * Our own beans and the MVC/Jackson request path are still created at startup so the
+ * first request does not pay for them; everything else waits until something needs it.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("fast-start")
+public class FastStartConfiguration {
+    private static final List<Class<?>> EAGER_TYPES = List.of(
+            DispatcherServlet.class,
+            RequestMappingHandlerMapping.class,
+            RequestMappingHandlerAdapter.class,
+            HttpMessageConverters.class,
+            ObjectMapper.class);
+
+    @Bean
+    static LazyInitializationExcludeFilter requestPathBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (beanType.getName().startsWith(FastStartConfiguration.class.getPackageName() + ".")
+                || EAGER_TYPES.stream().anyMatch(type -> type.isAssignableFrom(beanType)));
+    }
+}
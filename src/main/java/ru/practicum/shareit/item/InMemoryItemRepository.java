@@ -1,27 +1,55 @@
 package ru.practicum.shareit.item;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
 public class InMemoryItemRepository implements ItemRepository {
-    private final Map<Long, Item> items = new HashMap<>();
+    private static final int SEARCH_CACHE_MAX_SIZE = 1024;
+
+    // Concurrent so a search scan never trips over a save; one failed scan would fail every coalesced caller.
+    private final Map<Long, Item> items = new ConcurrentHashMap<>();
     private final AtomicLong idSequence = new AtomicLong();
 
+    // Bumped on every save so cached and in-flight searches never outlive a catalog change.
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Map<SearchKey, CompletableFuture<List<Item>>> inFlightSearches = new ConcurrentHashMap<>();
+    private final Map<String, CachedSearch> searchCache = new ConcurrentHashMap<>();
+    private final long searchCacheTtlNanos;
+
+    // Resolved on the first search, so building the repository does not force the metrics registry into existence.
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile SearchCounters searchCounters;
+
+    public InMemoryItemRepository(ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${shareit.item.search.cache-ttl}") Duration searchCacheTtl) {
+        this.meterRegistry = meterRegistry;
+        this.searchCacheTtlNanos = searchCacheTtl.toNanos();
+    }
+
     @Override
     public synchronized Item save(Item item) {
         if (item.getId() == null) {
             item.setId(idSequence.incrementAndGet());
         }
         items.put(item.getId(), item);
+        catalogVersion.incrementAndGet();
+        searchCache.clear();
         return item;
     }
 
@@ -44,8 +72,44 @@ public class InMemoryItemRepository implements ItemRepository {
 
     @Override
     public List<Item> search(String text) {
-        List<Item> result = new ArrayList<>();
         String lowerText = text.toLowerCase();
+        long version = catalogVersion.get();
+        SearchCounters counters = searchCounters();
+
+        CachedSearch cached = searchCache.get(lowerText);
+        if (cached != null && cached.version() == version && cached.expiresAt() - System.nanoTime() > 0) {
+            counters.hits().increment();
+            return cached.result();
+        }
+
+        SearchKey key = new SearchKey(version, lowerText);
+        CompletableFuture<List<Item>> computation = new CompletableFuture<>();
+        CompletableFuture<List<Item>> inFlight = inFlightSearches.putIfAbsent(key, computation);
+        if (inFlight != null) {
+            counters.coalesced().increment();
+            return awaitSearch(inFlight);
+        }
+
+        counters.misses().increment();
+        try {
+            List<Item> result = List.copyOf(scan(lowerText));
+            if (searchCache.size() >= SEARCH_CACHE_MAX_SIZE) {
+                searchCache.clear();
+            }
+            searchCache.put(lowerText, new CachedSearch(version, System.nanoTime() + searchCacheTtlNanos, result));
+            computation.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too, or coalesced callers would wait on the future forever.
+            computation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightSearches.remove(key, computation);
+        }
+    }
+
+    private List<Item> scan(String lowerText) {
+        List<Item> result = new ArrayList<>();
         for (Item item : items.values()) {
             if (Boolean.TRUE.equals(item.getAvailable())
                     && ((item.getName() != null && item.getName().toLowerCase().contains(lowerText))
@@ -56,4 +120,47 @@ public class InMemoryItemRepository implements ItemRepository {
         result.sort(Comparator.comparing(Item::getId));
         return result;
     }
+
+    private static List<Item> awaitSearch(CompletableFuture<List<Item>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private SearchCounters searchCounters() {
+        SearchCounters counters = searchCounters;
+        if (counters == null) {
+            // Registration is idempotent, so racing first searches end up with the same counters.
+            MeterRegistry registry = meterRegistry.getObject();
+            counters = new SearchCounters(searchCounter(registry, "hit"),
+                    searchCounter(registry, "coalesced"),
+                    searchCounter(registry, "miss"));
+            searchCounters = counters;
+        }
+        return counters;
+    }
+
+    private static Counter searchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("shareit.item.search")
+                .description("Item searches by how they were served")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record SearchCounters(Counter hits, Counter coalesced, Counter misses) {
+    }
+
+    private record SearchKey(long version, String text) {
+    }
+
+    private record CachedSearch(long version, long expiresAt, List<Item> result) {
+    }
 }
@@ -0,0 +1,65 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.web.servlet.error.BasicErrorController;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import ru.practicum.shareit.item.InMemoryItemRepository;
+import ru.practicum.shareit.item.ItemController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("fast-start")
+class FastStartProfileTests {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void onlyRequestPathBeansAreCreatedAtStartup() throws Exception {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+
+        assertThat(created(beanFactory, ItemController.class)).isNotEmpty();
+        assertThat(created(beanFactory, InMemoryItemRepository.class)).isNotEmpty();
+        assertThat(created(beanFactory, RequestMappingHandlerMapping.class)).isNotEmpty();
+        assertThat(created(beanFactory, BasicErrorController.class)).isEmpty();
+        assertThat(created(beanFactory, RestTemplateBuilder.class)).isEmpty();
+        assertThat(created(beanFactory, RestClient.Builder.class)).isEmpty();
+        assertThat(created(beanFactory, ThreadPoolTaskSchedulerBuilder.class)).isEmpty();
+
+        assertThat(get("/items/search?text=drill")).isEqualTo(200);
+        assertThat(get("/actuator/health")).isEqualTo(200);
+        assertThat(context.getBean(MeterRegistry.class).find("shareit.item.search").counters()).isNotEmpty();
+    }
+
+    private int get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static List<String> created(ConfigurableListableBeanFactory beanFactory, Class<?> type) {
+        return Arrays.stream(beanFactory.getBeanNamesForType(type, true, false))
+                .filter(beanFactory::containsSingleton)
+                .toList();
+    }
+}
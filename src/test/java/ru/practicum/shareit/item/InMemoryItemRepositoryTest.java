@@ -0,0 +1,174 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryItemRepositoryTest {
+    private static final Duration TTL = Duration.ofMillis(200);
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private InMemoryItemRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        repository = new InMemoryItemRepository(beanFactory.getBeanProvider(MeterRegistry.class), TTL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void repeatedSearchIsServedFromCache() {
+        Item drill = repository.save(item("Drill", true));
+
+        assertThat(repository.search("DRILL")).containsExactly(drill);
+        assertThat(repository.search("drill")).containsExactly(drill);
+
+        assertThat(searches("miss")).isEqualTo(1);
+        assertThat(searches("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void saveInvalidatesCachedResult() {
+        Item drill = repository.save(item("Drill", true));
+        assertThat(repository.search("drill")).containsExactly(drill);
+
+        drill.setAvailable(false);
+        repository.save(drill);
+
+        assertThat(repository.search("drill")).isEmpty();
+        assertThat(searches("miss")).isEqualTo(2);
+        assertThat(searches("hit")).isZero();
+    }
+
+    @Test
+    void cachedResultExpiresAfterTtl() throws InterruptedException {
+        repository.save(item("Drill", true));
+        repository.search("drill");
+
+        Thread.sleep(TTL.toMillis() * 2);
+        repository.search("drill");
+
+        assertThat(searches("miss")).isEqualTo(2);
+        assertThat(searches("hit")).isZero();
+    }
+
+    @Test
+    void concurrentIdenticalSearchesShareOneScan() throws Exception {
+        BlockingItem blocking = new BlockingItem(false);
+        repository.save(blocking);
+
+        Future<List<Item>> leader = executor.submit(() -> repository.search("drill"));
+        assertThat(blocking.scanStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        Future<List<Item>> follower1 = executor.submit(() -> repository.search("drill"));
+        Future<List<Item>> follower2 = executor.submit(() -> repository.search("DRILL"));
+        awaitSearches("coalesced", 2);
+        blocking.release.countDown();
+
+        assertThat(leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).singleElement().isSameAs(blocking);
+        assertThat(follower1.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).singleElement().isSameAs(blocking);
+        assertThat(follower2.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).singleElement().isSameAs(blocking);
+        assertThat(blocking.scans.get()).isEqualTo(1);
+        assertThat(searches("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void failedScanReachesWaitingCallersAndIsNotKept() throws Exception {
+        BlockingItem blocking = new BlockingItem(true);
+        repository.save(blocking);
+
+        Future<List<Item>> leader = executor.submit(() -> repository.search("drill"));
+        assertThat(blocking.scanStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        Future<List<Item>> follower = executor.submit(() -> repository.search("drill"));
+        awaitSearches("coalesced", 1);
+        blocking.release.countDown();
+
+        assertThatThrownBy(() -> leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(repository.search("drill")).singleElement().isSameAs(blocking);
+        assertThat(searches("miss")).isEqualTo(2);
+        assertThat(searches("coalesced")).isEqualTo(1);
+    }
+
+    private double searches(String result) {
+        return meterRegistry.get("shareit.item.search").tag("result", result).counter().count();
+    }
+
+    private void awaitSearches(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (searches(result) < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static Item item(String name, boolean available) {
+        return Item.builder()
+                .name(name)
+                .description(name + " for rent")
+                .available(available)
+                .build();
+    }
+
+    /**
+     * Holds the scan inside {@link #getAvailable()}, read once per item per scan,
+     * until released, so concurrent callers can pile up behind it. A failing item fails one scan only.
+     */
+    private static final class BlockingItem extends Item {
+        private final CountDownLatch scanStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger scans = new AtomicInteger();
+        private final AtomicBoolean failing;
+
+        private BlockingItem(boolean failing) {
+            this.failing = new AtomicBoolean(failing);
+            setName("Drill");
+            setAvailable(true);
+        }
+
+        @Override
+        public Boolean getAvailable() {
+            scans.incrementAndGet();
+            scanStarted.countDown();
+            try {
+                if (!release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Scan was never released");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (failing.getAndSet(false)) {
+                throw new IllegalStateException("Scan failed");
+            }
+            return super.getAvailable();
+        }
+    }
+}
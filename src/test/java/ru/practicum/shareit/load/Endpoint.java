@@ -0,0 +1,33 @@
+package ru.practicum.shareit.load;
+
+/**
+ * Endpoints in the simulated production mix, with their default share of traffic.
+ */
+enum Endpoint {
+    OWNER_ITEMS("owner-items", "GET /items", 40),
+    SEARCH("search", "GET /items/search", 40),
+    ITEM_PATCH("item-patch", "PATCH /items/{id}", 15),
+    USER_SIGNUP("user-signup", "POST /users", 5);
+
+    private final String key;
+    private final String label;
+    private final int defaultWeight;
+
+    Endpoint(String key, String label, int defaultWeight) {
+        this.key = key;
+        this.label = label;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String label() {
+        return label;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+}
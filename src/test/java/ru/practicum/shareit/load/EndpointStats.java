@@ -0,0 +1,38 @@
+package ru.practicum.shareit.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histogram and error count for one endpoint. Latency is taken from the
+ * request's scheduled start, so a stalled server is not hidden by coordinated omission.
+ */
+class EndpointStats {
+    private final Histogram latencyNanos = new ConcurrentHistogram(3);
+    private final AtomicLong errors = new AtomicLong();
+
+    void record(long latency, boolean success) {
+        latencyNanos.recordValue(Math.max(latency, 0));
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    long requests() {
+        return latencyNanos.getTotalCount();
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    double percentileMillis(double percentile) {
+        return latencyNanos.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    double maxMillis() {
+        return latencyNanos.getMaxValue() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.load;
+
+import java.time.Duration;
+import java.util.Map;
+
+record LoadReport(Duration measuredDuration, Map<Endpoint, EndpointStats> stats) {
+
+    long totalRequests() {
+        return stats.values().stream().mapToLong(EndpointStats::requests).sum();
+    }
+
+    long totalErrors() {
+        return stats.values().stream().mapToLong(EndpointStats::errors).sum();
+    }
+
+    String format() {
+        double seconds = measuredDuration.toNanos() / 1_000_000_000.0;
+        StringBuilder table = new StringBuilder(String.format("%n%-20s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        stats.forEach((endpoint, endpointStats) -> table.append(String.format(
+                "%-20s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint.label(),
+                endpointStats.requests(),
+                endpointStats.errors(),
+                endpointStats.requests() / seconds,
+                endpointStats.percentileMillis(50),
+                endpointStats.percentileMillis(99),
+                endpointStats.percentileMillis(99.9),
+                endpointStats.maxMillis())));
+        table.append(String.format("%-20s %9d %7d %9.1f%n", "total", totalRequests(), totalErrors(),
+                totalRequests() / seconds));
+        return table.toString();
+    }
+}
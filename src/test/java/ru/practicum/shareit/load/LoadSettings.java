@@ -0,0 +1,53 @@
+package ru.practicum.shareit.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load run parameters, read from {@code shareit.load.*} system properties,
+ * e.g. {@code mvn test -Pload -Dshareit.load.rate=500 -Dshareit.load.weight.search=60}.
+ */
+record LoadSettings(int users,
+                    int items,
+                    int ratePerSecond,
+                    Duration warmup,
+                    Duration duration,
+                    Map<Endpoint, Integer> weights) {
+
+    private static final String PREFIX = "shareit.load.";
+    // Keeps the pacing interval at a whole nanosecond or more.
+    private static final int MAX_RATE_PER_SECOND = 1_000_000_000;
+
+    static LoadSettings fromSystemProperties() {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            weights.put(endpoint, intProperty("weight." + endpoint.key(), endpoint.defaultWeight()));
+        }
+        LoadSettings settings = new LoadSettings(
+                intProperty("users", 200),
+                intProperty("items", 5_000),
+                intProperty("rate", 200),
+                Duration.ofSeconds(intProperty("warmup-seconds", 5)),
+                Duration.ofSeconds(intProperty("duration-seconds", 30)),
+                weights);
+        settings.validate();
+        return settings;
+    }
+
+    private void validate() {
+        if (users < 1 || items < 1 || ratePerSecond < 1 || ratePerSecond > MAX_RATE_PER_SECOND
+                || duration.isZero() || duration.isNegative() || warmup.isNegative()) {
+            throw new IllegalArgumentException("Invalid load settings: " + this);
+        }
+        if (weights.values().stream().anyMatch(weight -> weight < 0)
+                || weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Endpoint weights must be non-negative with a positive sum: " + weights);
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,178 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Seeds users and items through the public API, then drives an open-model workload:
+ * requests are issued at a fixed arrival rate whether or not earlier ones have completed.
+ */
+class ShareItLoadGenerator {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final String[] VOCABULARY = {
+        "drill", "saw", "ladder", "tent", "bike", "camera", "kayak", "projector", "grill", "vacuum"
+    };
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final LoadSettings settings;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final AtomicLong signupSequence = new AtomicLong();
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<long[]> itemOwners = new ArrayList<>();
+
+    ShareItLoadGenerator(URI baseUri, LoadSettings settings) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+    }
+
+    LoadReport run() throws IOException, InterruptedException {
+        seed();
+        return drive();
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < settings.users(); i++) {
+            userIds.add(createUser());
+        }
+        for (int i = 0; i < settings.items(); i++) {
+            long ownerId = userIds.get(random.nextInt(userIds.size()));
+            String word = VOCABULARY[i % VOCABULARY.length];
+            String body = String.format("{\"name\":\"%s %d\",\"description\":\"Reliable %s for rent\",\"available\":%b}",
+                    word, i, word, random.nextInt(10) != 0);
+            HttpRequest request = jsonRequest("/items", ownerId)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            itemOwners.add(new long[]{readId(client.send(request, HttpResponse.BodyHandlers.ofString())), ownerId});
+        }
+    }
+
+    private long createUser() throws IOException, InterruptedException {
+        HttpRequest request = jsonRequest("/users", null)
+                .POST(HttpRequest.BodyPublishers.ofString(signupBody()))
+                .build();
+        return readId(client.send(request, HttpResponse.BodyHandlers.ofString()));
+    }
+
+    private LoadReport drive() throws InterruptedException {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        int totalWeight = settings.weights().values().stream().mapToInt(Integer::intValue).sum();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.ratePerSecond();
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long stopAt = measureFrom + settings.duration().toNanos();
+        // One party for the pacing loop plus one per request in flight; whoever drops it to zero releases drained.
+        AtomicLong outstanding = new AtomicLong(1);
+        AtomicLong lastMeasuredCompletion = new AtomicLong(measureFrom);
+        CompletableFuture<Void> drained = new CompletableFuture<>();
+
+        for (long scheduledAt = System.nanoTime(); scheduledAt < stopAt; scheduledAt += intervalNanos) {
+            long now;
+            while ((now = System.nanoTime()) < scheduledAt) {
+                LockSupport.parkNanos(scheduledAt - now);
+            }
+            Endpoint endpoint = pickEndpoint(totalWeight);
+            EndpointStats endpointStats = scheduledAt >= measureFrom ? stats.get(endpoint) : null;
+            long start = scheduledAt;
+            outstanding.incrementAndGet();
+            client.sendAsync(buildRequest(endpoint), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (endpointStats != null) {
+                            long completedAt = System.nanoTime();
+                            boolean success = error == null && response.statusCode() < 400;
+                            endpointStats.record(completedAt - start, success);
+                            lastMeasuredCompletion.accumulateAndGet(completedAt, Math::max);
+                        }
+                        if (outstanding.decrementAndGet() == 0) {
+                            drained.complete(null);
+                        }
+                    });
+        }
+
+        if (outstanding.decrementAndGet() == 0) {
+            drained.complete(null);
+        }
+        drained.join();
+        return new LoadReport(Duration.ofNanos(Math.max(lastMeasuredCompletion.get() - measureFrom, 1)), stats);
+    }
+
+    private Endpoint pickEndpoint(int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> weight : settings.weights().entrySet()) {
+            roll -= weight.getValue();
+            if (roll < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("Endpoint weights changed during the run");
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint) {
+        return switch (endpoint) {
+            case OWNER_ITEMS -> jsonRequest("/items", userIds.get(random.nextInt(userIds.size())))
+                    .GET()
+                    .build();
+            case SEARCH -> jsonRequest("/items/search?text="
+                    + URLEncoder.encode(VOCABULARY[random.nextInt(VOCABULARY.length)], StandardCharsets.UTF_8), null)
+                    .GET()
+                    .build();
+            case ITEM_PATCH -> {
+                long[] itemOwner = itemOwners.get(random.nextInt(itemOwners.size()));
+                String body = String.format("{\"available\":%b}", random.nextInt(10) != 0);
+                yield jsonRequest("/items/" + itemOwner[0], itemOwner[1])
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            case USER_SIGNUP -> jsonRequest("/users", null)
+                    .POST(HttpRequest.BodyPublishers.ofString(signupBody()))
+                    .build();
+        };
+    }
+
+    private HttpRequest.Builder jsonRequest(String path, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        if (userId != null) {
+            builder.header(USER_HEADER, userId.toString());
+        }
+        return builder;
+    }
+
+    private String signupBody() {
+        long n = signupSequence.incrementAndGet();
+        return String.format("{\"name\":\"user%d\",\"email\":\"user%d@load.shareit\"}", n, n);
+    }
+
+    private long readId(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding failed: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the production request mix against an embedded server.
+ * Excluded from the regular build; run with {@code mvn test -Pload}.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ShareItLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void productionMix() throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        log.info("Starting load run: {}", settings);
+
+        LoadReport report = new ShareItLoadGenerator(URI.create("http://localhost:" + port), settings).run();
+        log.info("Load run finished:{}", report.format());
+
+        assertThat(report.totalRequests()).isPositive();
+        assertThat(report.totalErrors()).isZero();
+    }
+}
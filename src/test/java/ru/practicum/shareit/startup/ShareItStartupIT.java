@@ -0,0 +1,127 @@
+package ru.practicum.shareit.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures time-to-first-request of the extracted jar in a fresh JVM per run:
+ * plain boot, lazy initialization only, and the full fast-start mode (lazy + AOT + CDS).
+ * Run with {@code mvn verify -Pfast-start}; {@code -Dshareit.startup.runs} sets runs per mode.
+ */
+@Slf4j
+class ShareItStartupIT {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        String jarProperty = System.getProperty("shareit.startup.jar");
+        String cdsArchiveProperty = System.getProperty("shareit.startup.cds-archive");
+        assumeTrue(jarProperty != null && cdsArchiveProperty != null,
+                "Needs the extracted jar and CDS archive; run with mvn verify -Pfast-start");
+        Path jar = Path.of(jarProperty);
+        Path cdsArchive = Path.of(cdsArchiveProperty);
+        int runs = Integer.getInteger("shareit.startup.runs", 5);
+        assertThat(jar).exists();
+        assertThat(cdsArchive).exists();
+
+        List<Mode> modes = List.of(
+                new Mode("baseline", List.of(), List.of()),
+                new Mode("lazy", List.of(), List.of("--spring.profiles.active=fast-start")),
+                new Mode("lazy+aot+cds",
+                        List.of("-XX:SharedArchiveFile=" + cdsArchive, "-Dspring.aot.enabled=true"),
+                        List.of("--spring.profiles.active=fast-start")));
+
+        StringBuilder report = new StringBuilder(String.format("%n%-14s %9s %9s %9s%n",
+                "mode", "min ms", "p50 ms", "max ms"));
+        for (Mode mode : modes) {
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = measure(jar, mode, run);
+            }
+            Arrays.sort(millis);
+            report.append(String.format("%-14s %9d %9d %9d%n",
+                    mode.name(), millis[0], millis[runs / 2], millis[runs - 1]));
+        }
+        log.info("Time to first request over {} runs per mode:{}", runs, report);
+    }
+
+    private long measure(Path jar, Mode mode, int run) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArgs());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(mode.appArgs());
+
+        Path logFile = jar.resolveSibling("startup-" + mode.name() + "-" + run + ".log");
+        Files.deleteIfExists(logFile);
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        try {
+            awaitFirstResponse(port, process, logFile);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitFirstResponse(int port, Process process, Path logFile) throws InterruptedException {
+        URI uri = URI.create("http://localhost:" + port + "/users");
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited during startup, see " + logFile);
+            }
+            // A server that accepts the connection but stalls must not outlive the startup deadline.
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofNanos(remaining)).GET().build();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                assertThat(response.statusCode()).isEqualTo(200);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(5);
+            }
+        }
+        throw new IllegalStateException("Application did not answer within " + STARTUP_TIMEOUT + ", see " + logFile);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(String name, List<String> jvmArgs, List<String> appArgs) {
+    }
+}